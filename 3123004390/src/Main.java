@@ -15,6 +15,28 @@ public class Main {
     // SimHash的位数，通常使用64位
     private static final int HASH_BITS = 64;
 
+    // MinHash的LSH分带参数：32个带，每带4行，签名长度为128（阈值约为(1/32)^(1/4)≈0.42）
+    public static final int MINHASH_BANDS = 32;
+    public static final int MINHASH_ROWS = 4;
+    public static final int MINHASH_SIZE = MINHASH_BANDS * MINHASH_ROWS;
+
+    // 中文片段使用的字符shingle长度，插入/删除单个字符只会破坏少量shingle
+    private static final int SHINGLE_LENGTH = 2;
+
+    // 包含度估计允许的最大标准误差，超过时包含度退化为Jaccard相似度
+    public static final double MAX_CONTAINMENT_STD_ERROR = 0.1;
+
+    // 包含度退化为Jaccard相似度时在结果中附加的说明
+    private static final String CONTAINMENT_FALLBACK_NOTE = "（特征过少，估计误差较大，已退化为Jaccard相似度）";
+
+    // 查重引擎
+    public static final String ENGINE_SIMHASH = "simhash";
+    public static final String ENGINE_MINHASH = "minhash";
+    private static final String ENGINE_OPTION_PREFIX = "--engine=";
+
+    // 基准测试中每个引擎的重复次数
+    private static final int BENCHMARK_ITERATIONS = 200;
+
     public static void main(String[] args) {
         // 如果传入"test"作为参数，运行测试函数
         if (args.length == 1 && "test".equalsIgnoreCase(args[0])) {
@@ -22,6 +44,12 @@ public class Main {
             return;
         }
 
+        // 如果传入"bench <目录>"，在该目录的样例文本上对比两种引擎
+        if (args.length == 2 && "bench".equalsIgnoreCase(args[0])) {
+            runBenchmark(args[1]);
+            return;
+        }
+
         // 验证命令行参数
         if (!validateCommandLineArgs(args)) {
             return;
@@ -30,10 +58,10 @@ public class Main {
         String originalFilePath = args[0];
         String testFilePath = args[1];
         String resultFilePath = args[2];
+        String engine = args.length == 4 ? parseEngineOption(args[3]) : ENGINE_SIMHASH;
 
         // 记录开始时间
         long startTime = System.currentTimeMillis();
-        Date startDate = new Date(startTime);
 
         try {
             // 验证文件是否存在
@@ -44,27 +72,12 @@ public class Main {
             String originalText = readFileWithEncodingDetection(originalFilePath);
             String testText = readFileWithEncodingDetection(testFilePath);
 
-            // 计算SimHash值
-            long originalHash = calculateSimHash(originalText);
-            long testHash = calculateSimHash(testText);
-
-            // 计算海明距离
-            int hammingDistance = calculateHammingDistance(originalHash, testHash);
-
-            // 计算相似度 (1 - 海明距离 / 哈希位数)
-            double similarity = 1.0 - (double) hammingDistance / HASH_BITS;
-
-            // 记录结束时间
-            long endTime = System.currentTimeMillis();
-            long elapsedTime = endTime - startTime;
-
-            // 写入结果（追加模式，保留历史结果）
-            writeResult(resultFilePath, hammingDistance, similarity,
-                    startDate, new Date(endTime), elapsedTime, originalFilePath, testFilePath);
-
-            System.out.println("查重完成，结果已追加至: " + resultFilePath);
-            System.out.println("相似度: " + String.format("%.2f%%", similarity * 100));
-            System.out.println("耗时: " + elapsedTime + " 毫秒");
+            // 按所选引擎查重并写入结果（追加模式，保留历史结果）
+            if (ENGINE_MINHASH.equals(engine)) {
+                checkWithMinHash(originalText, testText, startTime, originalFilePath, testFilePath, resultFilePath);
+            } else {
+                checkWithSimHash(originalText, testText, startTime, originalFilePath, testFilePath, resultFilePath);
+            }
 
         } catch (FileNotFoundException e) {
             System.err.println("错误: 文件未找到 - " + e.getMessage());
@@ -78,14 +91,72 @@ public class Main {
         }
     }
 
+    /**
+     * 使用SimHash引擎查重，写入结果并输出摘要
+     */
+    private static void checkWithSimHash(String originalText, String testText, long startTime,
+                                         String originalFilePath, String testFilePath, String resultFilePath)
+            throws IOException {
+        // 计算SimHash值
+        long originalHash = calculateSimHash(originalText);
+        long testHash = calculateSimHash(testText);
+
+        // 计算海明距离
+        int hammingDistance = calculateHammingDistance(originalHash, testHash);
+
+        // 计算相似度 (1 - 海明距离 / 哈希位数)
+        double similarity = 1.0 - (double) hammingDistance / HASH_BITS;
+
+        // 记录结束时间
+        long endTime = System.currentTimeMillis();
+        long elapsedTime = endTime - startTime;
+
+        writeResult(resultFilePath, hammingDistance, similarity,
+                new Date(startTime), new Date(endTime), elapsedTime, originalFilePath, testFilePath);
+
+        System.out.println("查重完成，结果已追加至: " + resultFilePath);
+        System.out.println("相似度: " + String.format("%.2f%%", similarity * 100));
+        System.out.println("耗时: " + elapsedTime + " 毫秒");
+    }
+
+    /**
+     * 使用MinHash引擎查重，写入结果并输出摘要
+     */
+    private static void checkWithMinHash(String originalText, String testText, long startTime,
+                                         String originalFilePath, String testFilePath, String resultFilePath)
+            throws IOException {
+        // 计算MinHash签名
+        MinHashSignature originalSignature = calculateMinHashSignature(originalText);
+        MinHashSignature testSignature = calculateMinHashSignature(testText);
+
+        // 估算Jaccard相似度与包含度
+        double jaccard = estimateJaccard(originalSignature, testSignature);
+        double containment = estimateContainment(originalSignature, testSignature);
+        boolean containmentReliable = isContainmentReliable(originalSignature, testSignature);
+
+        // 记录结束时间
+        long endTime = System.currentTimeMillis();
+        long elapsedTime = endTime - startTime;
+
+        writeMinHashResult(resultFilePath, jaccard, containment, containmentReliable,
+                new Date(startTime), new Date(endTime), elapsedTime, originalFilePath, testFilePath);
+
+        System.out.println("查重完成，结果已追加至: " + resultFilePath);
+        System.out.println("Jaccard相似度: " + String.format("%.2f%%", jaccard * 100));
+        System.out.println("包含度: " + String.format("%.2f%%", containment * 100)
+                + (containmentReliable ? "" : CONTAINMENT_FALLBACK_NOTE));
+        System.out.println("耗时: " + elapsedTime + " 毫秒");
+    }
+
     /**
      * 验证命令行参数是否规范
      */
     public static boolean validateCommandLineArgs(String[] args) {
-        if (args.length != 3) {
+        if (args.length != 3 && args.length != 4) {
             System.err.println("命令行参数不规范！");
-            System.err.println("正确使用方法: java SimHashPlagiarismChecker <原文文件路径> <待检测文件路径> <结果文件路径>");
+            System.err.println("正确使用方法: java SimHashPlagiarismChecker <原文文件路径> <待检测文件路径> <结果文件路径> [--engine=simhash|minhash]");
             System.err.println("运行测试: java SimHashPlagiarismChecker test");
+            System.err.println("运行基准测试: java SimHashPlagiarismChecker bench <样例文本目录>");
             return false;
         }
 
@@ -105,9 +176,30 @@ public class Main {
             return false;
         }
 
+        if (args.length == 4 && parseEngineOption(args[3]) == null) {
+            System.err.println("错误: 无法识别的查重引擎参数 - " + args[3]);
+            System.err.println("可选引擎: " + ENGINE_OPTION_PREFIX + ENGINE_SIMHASH + " 或 " + ENGINE_OPTION_PREFIX + ENGINE_MINHASH);
+            return false;
+        }
+
         return true;
     }
 
+    /**
+     * 解析查重引擎参数（形如 --engine=minhash），无法识别时返回null
+     */
+    public static String parseEngineOption(String option) {
+        if (option == null || !option.toLowerCase().startsWith(ENGINE_OPTION_PREFIX)) {
+            return null;
+        }
+
+        String engine = option.substring(ENGINE_OPTION_PREFIX.length()).trim().toLowerCase();
+        if (ENGINE_SIMHASH.equals(engine) || ENGINE_MINHASH.equals(engine)) {
+            return engine;
+        }
+        return null;
+    }
+
     /**
      * 验证文件是否存在
      */
@@ -265,6 +357,236 @@ public class Main {
         return distance;
     }
 
+    /**
+     * 文本的MinHash签名，同时记录特征集合大小，用于估算包含度
+     */
+    public static final class MinHashSignature {
+        private final long[] values;
+        private final int featureCount;
+
+        MinHashSignature(long[] values, int featureCount) {
+            this.values = values;
+            this.featureCount = featureCount;
+        }
+
+        public long[] getValues() {
+            return values.clone();
+        }
+
+        public int getFeatureCount() {
+            return featureCount;
+        }
+
+        public boolean isEmpty() {
+            return featureCount == 0;
+        }
+    }
+
+    /**
+     * 计算文本的MinHash签名（单次置换MinHash + 最优稠密化）
+     * 每个特征只哈希一次并落入一个桶，复杂度为O(特征数 + 签名长度)，而非O(签名长度 × 特征数)
+     */
+    public static MinHashSignature calculateMinHashSignature(String text) {
+        long[] values = new long[MINHASH_SIZE];
+
+        // 1. 分词并生成shingle特征（去重后的64位哈希）
+        Set<Long> features = extractShingleHashes(segmentText(text));
+
+        // 处理没有特征的情况
+        if (features.isEmpty()) {
+            return new MinHashSignature(values, 0);
+        }
+
+        // 2. 单次置换：高位决定桶编号，每个桶保留最小哈希值
+        boolean[] filled = new boolean[MINHASH_SIZE];
+        for (long hash : features) {
+            int bin = toMinHashBin(hash);
+            if (!filled[bin] || Long.compareUnsigned(hash, values[bin]) < 0) {
+                values[bin] = hash;
+                filled[bin] = true;
+            }
+        }
+
+        // 3. 稠密化：空桶按确定性的探测序列借用非空桶的值，保证两份文本的借用方式一致
+        long[] densified = values.clone();
+        for (int bin = 0; bin < MINHASH_SIZE; bin++) {
+            if (filled[bin]) {
+                continue;
+            }
+            for (long attempt = 1; ; attempt++) {
+                int donor = toMinHashBin(mix64(((long) bin << 32) | attempt));
+                if (filled[donor]) {
+                    densified[bin] = values[donor];
+                    break;
+                }
+            }
+        }
+
+        return new MinHashSignature(densified, features.size());
+    }
+
+    /**
+     * 将哈希值映射到[0, MINHASH_SIZE)的桶编号（高32位乘法移位），签名长度不必是2的幂
+     */
+    private static int toMinHashBin(long hash) {
+        return (int) (((hash >>> 32) * MINHASH_SIZE) >>> 32);
+    }
+
+    /**
+     * 将分词结果切分为shingle并计算去重后的哈希值
+     * 中文片段按字符shingle切分（长度不足的片段整体作为一个特征）；字母数字组成的单词按相邻单词二元组切分，
+     * 因为常见字母二元组数量很少，按字符切分会使无关的英文文本看起来高度相似
+     */
+    public static Set<Long> extractShingleHashes(List<String> words) {
+        Set<Long> hashes = new HashSet<>();
+        long previousWordHash = 0;
+        int latinWordCount = 0;
+
+        for (String word : words) {
+            // 分词结果可能混合中文与字母数字（如"simhash是一种"），按字符类别拆成片段
+            int start = 0;
+            while (start < word.length()) {
+                boolean cjk = isCjkChar(word.charAt(start));
+                int end = start + 1;
+                while (end < word.length() && isCjkChar(word.charAt(end)) == cjk) {
+                    end++;
+                }
+
+                if (cjk) {
+                    if (end - start <= SHINGLE_LENGTH) {
+                        hashes.add(mix64(calculateRangeHash(word, start, end)));
+                    } else {
+                        for (int i = start; i + SHINGLE_LENGTH <= end; i++) {
+                            hashes.add(mix64(calculateRangeHash(word, i, i + SHINGLE_LENGTH)));
+                        }
+                    }
+                } else {
+                    long wordHash = calculateRangeHash(word, start, end);
+                    if (latinWordCount > 0) {
+                        hashes.add(mix64(mix64(previousWordHash) ^ wordHash));
+                    }
+                    previousWordHash = wordHash;
+                    latinWordCount++;
+                }
+
+                start = end;
+            }
+        }
+
+        // 只有一个单词时无法组成二元组，以该单词本身作为特征
+        if (latinWordCount == 1) {
+            hashes.add(mix64(previousWordHash));
+        }
+
+        return hashes;
+    }
+
+    /**
+     * 判断字符是否属于分词正则中的中文字符范围
+     */
+    private static boolean isCjkChar(char c) {
+        return c >= '\u4e00' && c <= '\u9fa5';
+    }
+
+    /**
+     * 对词的一段字符计算DJB2哈希，与calculateWordHash对同一子串的结果一致，但避免创建子串
+     */
+    private static long calculateRangeHash(String word, int from, int to) {
+        long hash = 5381;
+        for (int i = from; i < to; i++) {
+            hash = ((hash << 5) + hash) + word.charAt(i);
+        }
+        return hash;
+    }
+
+    /**
+     * 64位哈希混合函数（SplitMix64终结器），使DJB2哈希的高位分布均匀，便于分桶
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 根据两个MinHash签名估算Jaccard相似度（相同桶值所占比例）
+     * 两份文本均为空时视为完全相同（返回1），与SimHash对空文本的结果一致；仅一方为空时返回0
+     */
+    public static double estimateJaccard(MinHashSignature signature1, MinHashSignature signature2) {
+        if (signature1.isEmpty() && signature2.isEmpty()) {
+            return 1.0;
+        }
+        if (signature1.isEmpty() || signature2.isEmpty()) {
+            return 0;
+        }
+
+        int matches = 0;
+        for (int i = 0; i < MINHASH_SIZE; i++) {
+            if (signature1.values[i] == signature2.values[i]) {
+                matches++;
+            }
+        }
+
+        return (double) matches / MINHASH_SIZE;
+    }
+
+    /**
+     * 估算包含度：交集大小 / 较小特征集合的大小
+     * 由 |A∩B| = J·(|A|+|B|)/(1+J) 推得，大段插入或删除时仍能反映被复制内容的比例
+     * 估计不可靠（见isContainmentReliable）时直接返回Jaccard相似度，避免短文本被判为完全包含
+     */
+    public static double estimateContainment(MinHashSignature signature1, MinHashSignature signature2) {
+        double jaccard = estimateJaccard(signature1, signature2);
+        int size1 = signature1.featureCount;
+        int size2 = signature2.featureCount;
+        if (jaccard == 0 || Math.min(size1, size2) == 0 || !isContainmentReliable(signature1, signature2)) {
+            return jaccard;
+        }
+
+        double intersection = jaccard * (size1 + size2) / (1 + jaccard);
+
+        return Math.min(1.0, intersection / Math.min(size1, size2));
+    }
+
+    /**
+     * 判断包含度估计是否可靠：按Jaccard估计的标准误差传播到包含度，不超过MAX_CONTAINMENT_STD_ERROR时可靠
+     * Jaccard估计的方差约为 J(1-J)/m，有效样本数m取签名长度与并集大小中的较小者（并集较小时空桶只是复制已有值）；
+     * 包含度 C = J·(|A|+|B|)/((1+J)·min) 对J的导数为 (|A|+|B|)/((1+J)²·min)
+     */
+    public static boolean isContainmentReliable(MinHashSignature signature1, MinHashSignature signature2) {
+        int size1 = signature1.featureCount;
+        int size2 = signature2.featureCount;
+        if (Math.min(size1, size2) == 0) {
+            // 存在空文本时包含度按约定取0或1，不存在估计误差
+            return true;
+        }
+
+        double jaccard = estimateJaccard(signature1, signature2);
+        double union = (size1 + size2) / (1 + jaccard);
+        double samples = Math.min(MINHASH_SIZE, union);
+        double jaccardStdError = Math.sqrt(jaccard * (1 - jaccard) / samples);
+        double derivative = (size1 + size2) / ((1 + jaccard) * (1 + jaccard) * Math.min(size1, size2));
+
+        return derivative * jaccardStdError <= MAX_CONTAINMENT_STD_ERROR;
+    }
+
+    /**
+     * 计算签名在每个LSH带上的哈希键，两份文本任一带的键相同即可视为候选相似对
+     */
+    public static long[] calculateLshBandKeys(MinHashSignature signature) {
+        long[] keys = new long[MINHASH_BANDS];
+
+        for (int band = 0; band < MINHASH_BANDS; band++) {
+            long key = band;
+            for (int row = 0; row < MINHASH_ROWS; row++) {
+                key = mix64(key ^ signature.values[band * MINHASH_ROWS + row]);
+            }
+            keys[band] = key;
+        }
+
+        return keys;
+    }
+
     /**
      * 将查重结果写入文件（追加模式，保留历史结果）
      */
@@ -272,7 +594,39 @@ public class Main {
                                     double similarity, Date startTime, Date endTime, long elapsedTime,
                                     String originalFilePath, String testFilePath)
             throws IOException {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        try (BufferedWriter writer = openResultWriter(resultFilePath)) {
+            writeResultHeader(writer, startTime, endTime, elapsedTime, originalFilePath, testFilePath);
+
+            writer.write("海明距离: " + hammingDistance + "\n");
+            writer.write("文本相似度: " + String.format("%.2f%%", similarity * 100) + "\n\n");
+
+            writeJudgement(writer, similarity);
+        }
+    }
+
+    /**
+     * 将MinHash查重结果写入文件（追加模式，保留历史结果），以包含度作为判断依据
+     */
+    public static void writeMinHashResult(String resultFilePath, double jaccard,
+                                          double containment, boolean containmentReliable, Date startTime, Date endTime, long elapsedTime,
+                                          String originalFilePath, String testFilePath)
+            throws IOException {
+        try (BufferedWriter writer = openResultWriter(resultFilePath)) {
+            writeResultHeader(writer, startTime, endTime, elapsedTime, originalFilePath, testFilePath);
+
+            writer.write("查重引擎: MinHash (" + MINHASH_BANDS + "带 × " + MINHASH_ROWS + "行)\n");
+            writer.write("Jaccard相似度: " + String.format("%.2f%%", jaccard * 100) + "\n");
+            writer.write("包含度: " + String.format("%.2f%%", containment * 100)
+                    + (containmentReliable ? "" : CONTAINMENT_FALLBACK_NOTE) + "\n\n");
+
+            writeJudgement(writer, containment);
+        }
+    }
+
+    /**
+     * 以追加模式打开结果文件，文件已存在时先写入分隔线
+     */
+    private static BufferedWriter openResultWriter(String resultFilePath) throws IOException {
         boolean fileExists = new File(resultFilePath).exists();
 
         // 确保结果文件所在目录存在
@@ -281,39 +635,49 @@ public class Main {
             resultFile.getParentFile().mkdirs();
         }
 
-        try (BufferedWriter writer = new BufferedWriter(
-                new OutputStreamWriter(new FileOutputStream(resultFilePath, true), StandardCharsets.UTF_8))) {
+        BufferedWriter writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(resultFilePath, true), StandardCharsets.UTF_8));
 
-            // 如果文件已存在，添加分隔线区分不同批次的查重结果
-            if (fileExists) {
-                writer.write("\n========================================\n");
-                writer.write("========== 新的查重记录开始 ==========\n");
-                writer.write("========================================\n\n");
-            }
+        // 如果文件已存在，添加分隔线区分不同批次的查重结果
+        if (fileExists) {
+            writer.write("\n========================================\n");
+            writer.write("========== 新的查重记录开始 ==========\n");
+            writer.write("========================================\n\n");
+        }
 
-            writer.write("====== 文本查重结果 ======\n");
-            writer.write("检测开始时间: " + sdf.format(startTime) + "\n");
-            writer.write("检测完成时间: " + sdf.format(endTime) + "\n");
-            writer.write("查重总耗时: " + elapsedTime + " 毫秒\n\n");
+        return writer;
+    }
+
+    /**
+     * 写入查重时间与参与比对的文件信息
+     */
+    private static void writeResultHeader(BufferedWriter writer, Date startTime, Date endTime, long elapsedTime,
+                                          String originalFilePath, String testFilePath) throws IOException {
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
 
-            // 增加参与比对的文件信息，方便区分不同的查重记录
-            writer.write("参与比对的文件:\n");
-            writer.write("  原文文件: " + originalFilePath + "\n");
-            writer.write("  待检测文件: " + testFilePath + "\n\n");
+        writer.write("====== 文本查重结果 ======\n");
+        writer.write("检测开始时间: " + sdf.format(startTime) + "\n");
+        writer.write("检测完成时间: " + sdf.format(endTime) + "\n");
+        writer.write("查重总耗时: " + elapsedTime + " 毫秒\n\n");
 
-            writer.write("海明距离: " + hammingDistance + "\n");
-            writer.write("文本相似度: " + String.format("%.2f%%", similarity * 100) + "\n\n");
+        // 增加参与比对的文件信息，方便区分不同的查重记录
+        writer.write("参与比对的文件:\n");
+        writer.write("  原文文件: " + originalFilePath + "\n");
+        writer.write("  待检测文件: " + testFilePath + "\n\n");
+    }
 
-            // 根据相似度给出判断
-            if (similarity >= 0.8) {
-                writer.write("判断结果: 高度相似，存在严重抄袭嫌疑\n");
-            } else if (similarity >= 0.5) {
-                writer.write("判断结果: 中度相似，存在部分抄袭可能\n");
-            } else if (similarity >= 0.3) {
-                writer.write("判断结果: 轻度相似，可能存在少量借鉴\n");
-            } else {
-                writer.write("判断结果: 相似度较低，抄袭可能性小\n");
-            }
+    /**
+     * 根据相似度给出判断
+     */
+    private static void writeJudgement(BufferedWriter writer, double similarity) throws IOException {
+        if (similarity >= 0.8) {
+            writer.write("判断结果: 高度相似，存在严重抄袭嫌疑\n");
+        } else if (similarity >= 0.5) {
+            writer.write("判断结果: 中度相似，存在部分抄袭可能\n");
+        } else if (similarity >= 0.3) {
+            writer.write("判断结果: 轻度相似，可能存在少量借鉴\n");
+        } else {
+            writer.write("判断结果: 相似度较低，抄袭可能性小\n");
         }
     }
 
@@ -323,7 +687,7 @@ public class Main {
     public static void runTestCases() {
         System.out.println("开始运行测试用例...\n");
 
-        // 测试用例数组，每个元素是一个包含3个字符串的数组：[原文路径, 待检测路径, 结果路径]
+        // 测试用例数组，每个元素是一个包含3个字符串的数组：[原文路径, 待检测路径, 结果路径]，可选第4个元素指定查重引擎
         String[][] testCases = {
                 // 正常测试用例
                 {"D:/桌面/3123004390/test_word/test1_orig.txt", "D:/桌面/3123004390/test_word/test1_yuanwen.txt", "D:/桌面/3123004390/test_word/result.txt"},
@@ -333,6 +697,10 @@ public class Main {
                 {"D:/桌面/3123004390/test_word/orig.txt", "D:/桌面/3123004390/test_word/orig_0.8_add.txt", "D:/桌面/3123004390/test_word/result.txt"},
                 {"D:/桌面/3123004390/test_word/orig.txt", "D:/桌面/3123004390/test_word/orig_0.8_del.txt", "D:/桌面/3123004390/test_word/result.txt"},
 
+                // MinHash引擎测试用例 - 大段插入/删除
+                {"D:/桌面/3123004390/test_word/orig.txt", "D:/桌面/3123004390/test_word/orig_0.8_add.txt", "D:/桌面/3123004390/test_word/result.txt", "--engine=minhash"},
+                {"D:/桌面/3123004390/test_word/orig.txt", "D:/桌面/3123004390/test_word/orig_0.8_del.txt", "D:/桌面/3123004390/test_word/result.txt", "--engine=minhash"},
+
                 // 异常测试用例 - 文件不存在
                 {"testfiles/not_exist1.txt", "testfiles/original_utf8.txt", "testresults/result3.txt"},
 
@@ -356,4 +724,76 @@ public class Main {
 
         System.out.println("所有测试用例执行完毕");
     }
+
+    /**
+     * 在样例文本目录上对比SimHash与MinHash两种引擎的相似度与耗时
+     */
+    public static void runBenchmark(String corpusDir) {
+        System.out.println("开始运行基准测试，样例目录: " + corpusDir + "\n");
+
+        // 每个元素为 [原文文件名, 待检测文件名]
+        String[][] pairs = {
+                {"orig.txt", "orig_0.8_add.txt"},
+                {"orig.txt", "orig_0.8_del.txt"},
+                {"orig.txt", "orig_0.8_dis_1.txt"},
+                {"orig.txt", "orig_0.8_dis_10.txt"},
+                {"orig.txt", "orig_0.8_dis_15.txt"},
+                {"test1_orig.txt", "test1_yuanwen.txt"},
+                {"test2_orig.txt", "test2_xiugai.txt"},
+                {"test3_orig.txt", "test3_yuxu.txt"},
+                {"test4_orig.txt", "test4_kongbai.txt"}
+        };
+
+        System.out.println(String.format("%-40s %10s %12s %10s %10s %12s",
+                "样例", "SimHash", "SimHash(μs)", "Jaccard", "包含度", "MinHash(μs)"));
+
+        for (String[] pair : pairs) {
+            String originalFilePath = new File(corpusDir, pair[0]).getPath();
+            String testFilePath = new File(corpusDir, pair[1]).getPath();
+
+            try {
+                validateFileExists(originalFilePath);
+                validateFileExists(testFilePath);
+
+                String originalText = readFileWithEncodingDetection(originalFilePath);
+                String testText = readFileWithEncodingDetection(testFilePath);
+
+                // SimHash：预热后取平均耗时
+                double similarity = 0;
+                long simHashNanos = 0;
+                for (int i = 0; i < BENCHMARK_ITERATIONS * 2; i++) {
+                    long start = System.nanoTime();
+                    int distance = calculateHammingDistance(calculateSimHash(originalText), calculateSimHash(testText));
+                    similarity = 1.0 - (double) distance / HASH_BITS;
+                    if (i >= BENCHMARK_ITERATIONS) {
+                        simHashNanos += System.nanoTime() - start;
+                    }
+                }
+
+                // MinHash：预热后取平均耗时
+                double jaccard = 0;
+                double containment = 0;
+                long minHashNanos = 0;
+                for (int i = 0; i < BENCHMARK_ITERATIONS * 2; i++) {
+                    long start = System.nanoTime();
+                    MinHashSignature originalSignature = calculateMinHashSignature(originalText);
+                    MinHashSignature testSignature = calculateMinHashSignature(testText);
+                    jaccard = estimateJaccard(originalSignature, testSignature);
+                    containment = estimateContainment(originalSignature, testSignature);
+                    if (i >= BENCHMARK_ITERATIONS) {
+                        minHashNanos += System.nanoTime() - start;
+                    }
+                }
+
+                System.out.println(String.format("%-40s %9.2f%% %12d %9.2f%% %9.2f%% %12d",
+                        pair[0] + " vs " + pair[1],
+                        similarity * 100, simHashNanos / BENCHMARK_ITERATIONS / 1000,
+                        jaccard * 100, containment * 100, minHashNanos / BENCHMARK_ITERATIONS / 1000));
+            } catch (IOException e) {
+                System.err.println("跳过样例 " + pair[0] + " vs " + pair[1] + ": " + e.getMessage());
+            }
+        }
+
+        System.out.println("\n基准测试执行完毕");
+    }
 }
@@ -109,6 +109,78 @@ public class MainTest {
         assertTrue(distance3 > 0 && distance3 <= 64);
     }
 
+    @Test
+    void testCalculateMinHashSignature() {
+        Main.MinHashSignature signature1 = Main.calculateMinHashSignature(FULL_MATCH_TEXT);
+        Main.MinHashSignature signature2 = Main.calculateMinHashSignature(FULL_MATCH_TEXT);
+        assertArrayEquals(signature1.getValues(), signature2.getValues());
+        assertEquals(Main.MINHASH_SIZE, signature1.getValues().length);
+        assertTrue(signature1.getFeatureCount() > 0);
+
+        Main.MinHashSignature empty1 = Main.calculateMinHashSignature(EMPTY_TEXT);
+        Main.MinHashSignature empty2 = Main.calculateMinHashSignature(null);
+        assertTrue(empty1.isEmpty());
+        assertTrue(empty2.isEmpty());
+
+        assertEquals(Main.MINHASH_BANDS, Main.calculateLshBandKeys(signature1).length);
+        assertArrayEquals(Main.calculateLshBandKeys(signature1), Main.calculateLshBandKeys(signature2));
+    }
+
+    @Test
+    void testEstimateJaccardAndContainment() {
+        Main.MinHashSignature original = Main.calculateMinHashSignature(FULL_MATCH_TEXT);
+        assertEquals(1.0, Main.estimateJaccard(original, original));
+        assertEquals(1.0, Main.estimateContainment(original, original));
+
+        // 在原文前后插入大段无关内容，包含度应明显高于Jaccard相似度
+        Main.MinHashSignature inserted = Main.calculateMinHashSignature(
+                VERY_LOW_SIMILAR_TEXT + FULL_MATCH_TEXT + LOW_SIMILAR_TEXT);
+        double jaccard = Main.estimateJaccard(original, inserted);
+        double containment = Main.estimateContainment(original, inserted);
+        assertTrue(jaccard > 0 && jaccard < 1);
+        assertTrue(containment > jaccard);
+        assertTrue(containment >= 0.8);
+        assertTrue(Main.isContainmentReliable(original, inserted));
+
+        // 短文本特征过少，包含度退化为Jaccard相似度，不会因少量词组出现在原文中而判为完全包含
+        Main.MinHashSignature shortText = Main.calculateMinHashSignature("天气");
+        Main.MinHashSignature longText = Main.calculateMinHashSignature("今天天气很好，适合出门散步，顺便去公园看看花。");
+        assertFalse(Main.isContainmentReliable(shortText, longText));
+        assertEquals(Main.estimateJaccard(shortText, longText), Main.estimateContainment(shortText, longText));
+        assertTrue(Main.estimateContainment(shortText, longText) < 0.8);
+
+        Main.MinHashSignature empty = Main.calculateMinHashSignature(EMPTY_TEXT);
+        assertEquals(0, Main.estimateJaccard(original, empty));
+        assertEquals(0, Main.estimateContainment(original, empty));
+
+        // 两份文本均为空时视为完全相同，与SimHash的结果一致
+        Main.MinHashSignature otherEmpty = Main.calculateMinHashSignature(null);
+        assertEquals(1.0, Main.estimateJaccard(empty, otherEmpty));
+        assertEquals(1.0, Main.estimateContainment(empty, otherEmpty));
+    }
+
+    @Test
+    void testEstimateContainment_UnrelatedEnglish() {
+        // 英文单词按二元组作为特征，无关的英文段落不应因常见字母组合而被判为相似
+        Main.MinHashSignature english1 = Main.calculateMinHashSignature(
+                "The river flows slowly through the old town, and in the morning the fishermen prepare their boats " +
+                "while the bakers open their shops and the children walk to school along the narrow streets.");
+        Main.MinHashSignature english2 = Main.calculateMinHashSignature(
+                "Modern compilers optimize code by analyzing data flow, removing dead branches, and scheduling " +
+                "instructions so that the processor can execute them in parallel without waiting for memory.");
+        assertTrue(Main.estimateContainment(english1, english2) < 0.3);
+        assertEquals(1.0, Main.estimateContainment(english1, english1));
+    }
+
+    @Test
+    void testParseEngineOption() {
+        assertEquals(Main.ENGINE_SIMHASH, Main.parseEngineOption("--engine=simhash"));
+        assertEquals(Main.ENGINE_MINHASH, Main.parseEngineOption("--engine=MinHash"));
+        assertNull(Main.parseEngineOption("--engine=unknown"));
+        assertNull(Main.parseEngineOption("minhash"));
+        assertNull(Main.parseEngineOption(null));
+    }
+
     @Test
     void testValidateCommandLineArgs() {
         String[] validArgs = {originalFile.toString(), testFile.toString(), resultFile.toString()};
@@ -118,6 +190,8 @@ public class MainTest {
         assertFalse(Main.validateCommandLineArgs(new String[]{"onlyOne"}));
         assertFalse(Main.validateCommandLineArgs(new String[]{"arg1", "arg2"}));
         assertFalse(Main.validateCommandLineArgs(new String[]{"arg1", "arg2", "arg3", "arg4"}));
+        assertTrue(Main.validateCommandLineArgs(new String[]{"arg1", "arg2", "arg3", "--engine=minhash"}));
+        assertFalse(Main.validateCommandLineArgs(new String[]{"arg1", "arg2", "arg3", "--engine=md5"}));
 
         assertFalse(Main.validateCommandLineArgs(new String[]{"", testFile.toString(), resultFile.toString()}));
         assertFalse(Main.validateCommandLineArgs(new String[]{"   ", testFile.toString(), resultFile.toString()}));
@@ -200,6 +274,25 @@ public class MainTest {
         assertTrue(resultContent.contains("相似度较低，抄袭可能性小"));
     }
 
+    @Test
+    void testFullFlow_MinHashEngine() throws IOException {
+        Path minHashOriginalFile = tempDir.resolve("orig.txt");
+        Path minHashTestFile = tempDir.resolve("orig_add.txt");
+        Path minHashResultFile = tempDir.resolve("result.txt");
+        writeToFile(minHashOriginalFile, FULL_MATCH_TEXT);
+        writeToFile(minHashTestFile, VERY_LOW_SIMILAR_TEXT + FULL_MATCH_TEXT + LOW_SIMILAR_TEXT);
+
+        String[] args = {minHashOriginalFile.toString(), minHashTestFile.toString(), minHashResultFile.toString(),
+                "--engine=minhash"};
+        Main.main(args);
+
+        assertTrue(Files.exists(minHashResultFile));
+        String resultContent = readFromFile(minHashResultFile);
+        assertTrue(resultContent.contains("Jaccard相似度:"));
+        assertTrue(resultContent.contains("包含度:"));
+        assertTrue(resultContent.contains("高度相似，存在严重抄袭嫌疑"));
+    }
+
     @Test
     void testFullFlow_EmptyFile() throws IOException {
         writeToFile(originalFile, FULL_MATCH_TEXT);